@@ -0,0 +1,37 @@
+package java_client;
+
+/**
+ * A single booking record as returned by the /bookings endpoints.
+ * Field values are kept as the strings sent by the server.
+ */
+public class Booking {
+    String id;
+    String userId;
+    String userName;
+    String resourceId;
+    String resourceName;
+    String resourceType;
+    String date;
+    String startTime;
+    String endTime;
+    String status;
+    String bookedOn;
+
+    public String getId() { return id; }
+    public String getUserId() { return userId; }
+    public String getUserName() { return userName; }
+    public String getResourceId() { return resourceId; }
+    public String getResourceName() { return resourceName; }
+    public String getResourceType() { return resourceType; }
+    public String getDate() { return date; }
+    public String getStartTime() { return startTime; }
+    public String getEndTime() { return endTime; }
+    public String getStatus() { return status; }
+    public String getBookedOn() { return bookedOn; }
+
+    @Override
+    public String toString() {
+        return "Booking{id=" + id + ", resource=" + resourceName + ", date=" + date +
+            ", " + startTime + "-" + endTime + ", status=" + status + "}";
+    }
+}
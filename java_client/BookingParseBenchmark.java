@@ -0,0 +1,108 @@
+package java_client;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Offline benchmark comparing heap retained by a large bookings pull when
+ * decoded with and without the {@link StringPool}. Does not need the server.
+ *
+ * Two data sets are measured: a small one where every repeated value fits in
+ * the pool, and a campus-sized one with thousands of users and a year of
+ * dates, which shows how the pool behaves once it is under pressure.
+ *
+ * Usage: java java_client.BookingParseBenchmark [bookingCount]
+ */
+public class BookingParseBenchmark {
+
+    private static final String[] RESOURCES = {
+        "Study Room 102", "Meeting Room A", "Conference Hall 1",
+        "Badminton Court", "Tennis Court", "Reading Hall A"
+    };
+    private static final String[] TYPES = {
+        "Study Room", "Conference Room", "Conference Room",
+        "Sports Facility", "Sports Facility", "Library Resource"
+    };
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        // 4 users, 20 dates, 10 start times
+        run("Small data set", count, 4, 20, 10);
+        // 5,000 users, a year of dates, half-hourly starts from 08:00 to 21:30
+        run("Campus-sized data set", count, 5_000, 365, 28);
+    }
+
+    private static void run(String name, int count, int users, int days, int startSlots)
+            throws IOException {
+        String json = buildBookingsJson(count, users, days, startSlots);
+        System.out.println("=== " + name + ": " + count + " bookings, " + users + " users, " +
+            days + " dates, " + json.length() / 1024 + " KB payload ===");
+
+        long baselineBytes = measure(json, null);
+        StringPool pool = new StringPool();
+        long pooledBytes = measure(json, pool);
+
+        System.out.printf("Without pool: %,d KB retained%n", baselineBytes / 1024);
+        System.out.printf("With pool:    %,d KB retained%n", pooledBytes / 1024);
+        System.out.printf("Pool:         %,d of %,d slots used, %,d hits, %,d misses%n",
+            pool.size(), pool.capacity(), pool.getHits(), pool.getMisses());
+        System.out.printf("Saved:        %,d KB (%.1f%%)%n%n", (baselineBytes - pooledBytes) / 1024,
+            100.0 * (baselineBytes - pooledBytes) / baselineBytes);
+    }
+
+    /**
+     * Returns the heap still in use after parsing, while the result is reachable.
+     */
+    private static long measure(String json, StringPool pool) throws IOException {
+        long before = usedHeap();
+        List<Booking> bookings = ResponseParser.parseBookings(json, pool);
+        long after = usedHeap();
+        Reference.reachabilityFence(bookings);
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String buildBookingsJson(int count, int users, int days, int startSlots) {
+        StringBuilder sb = new StringBuilder(count * 260);
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            int resource = i % RESOURCES.length;
+            int user = (i * 7919) % users;
+            int day = (i / RESOURCES.length) % days;
+            int start = 8 * 60 + ((i * 31) % startSlots) * 30;
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(1761061471692L + i).append('"')
+              .append(",\"userId\":").append(user + 1)
+              .append(",\"userName\":\"USER").append(user + 1).append('"')
+              .append(",\"resourceId\":").append(resource + 1)
+              .append(",\"resourceName\":\"").append(RESOURCES[resource]).append('"')
+              .append(",\"resourceType\":\"").append(TYPES[resource]).append('"')
+              .append(",\"date\":\"").append(LocalDate.of(2026, 1, 1).plusDays(day)).append('"')
+              .append(",\"startTime\":\"").append(formatTime(start)).append('"')
+              .append(",\"endTime\":\"").append(formatTime(start + 120)).append('"')
+              .append(",\"status\":\"Confirmed\"")
+              .append(",\"bookedOn\":\"2025-10-21\"}");
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private static String formatTime(int minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+}
@@ -4,6 +4,7 @@ import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * A robust Java REST Client for the Campus Resource Finder API, using 
@@ -14,6 +15,9 @@ public class JavaRestClient {
     // Base URL for the API endpoints
     private static final String BASE_URL = "http://localhost:3000/api";
 
+    // Shared dictionary for repeated booking field values across responses
+    private final StringPool stringPool = new StringPool();
+
     // --- Public API Methods (Resource Finder Endpoints) ---
 
     public String getUsers() throws IOException {
@@ -28,6 +32,50 @@ public class JavaRestClient {
         return sendGetRequest("/bookings");
     }
 
+    /**
+     * Retrieves and decodes all bookings. Repeated field values (resource
+     * names and types, status, dates and times) share a single String
+     * instance through the client's {@link StringPool}.
+     * @return The list of bookings.
+     * @throws IOException if the request fails or the response is malformed.
+     */
+    public List<Booking> getBookingList() throws IOException {
+        return ResponseParser.parseBookings(getBookings(), stringPool);
+    }
+
+    /**
+     * Retrieves and decodes all resources.
+     * @return The list of resources.
+     * @throws IOException if the request fails or the response is malformed.
+     */
+    public List<Resource> getResourceList() throws IOException {
+        return ResponseParser.parseResources(getResources(), stringPool);
+    }
+
+    /**
+     * Suggests free alternatives to a booking request (e.g. after createBooking
+     * failed). Fetches resources and bookings once and ranks similar resources
+     * and nearby time windows locally, see {@link SlotRecommender}.
+     * @param resourceRequest Template with the wanted type, building, capacity and facilities.
+     * @param date Booking date (yyyy-MM-dd).
+     * @param startTime Requested start time (HH:mm).
+     * @param endTime Requested end time (HH:mm).
+     * @param k Maximum number of suggestions to return.
+     * @return Up to k free options, best match first.
+     * @throws IOException if either request fails or a response is malformed.
+     * @throws IllegalArgumentException if k or the times are invalid; checked before any request.
+     */
+    public List<Suggestion> suggestAlternatives(Resource resourceRequest, String date,
+            String startTime, String endTime, int k) throws IOException {
+        SlotRecommender.validate(startTime, endTime, k);
+        return SlotRecommender.recommend(getResourceList(), getBookingList(),
+            resourceRequest, date, startTime, endTime, k);
+    }
+
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
     public String getUserById(int userId) throws IOException {
         return sendGetRequest("/users/" + userId);
     }
@@ -0,0 +1,50 @@
+package java_client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bookable campus resource as returned by the /resources endpoints.
+ * Also used as the template passed to
+ * {@link JavaRestClient#suggestAlternatives(Resource, String, String, String, int)}.
+ */
+public class Resource {
+    /**
+     * Capacity given to a resource whose capacity is missing, null, not a
+     * number, negative or too large for an int (e.g. "lots", "Infinity", 1e12).
+     * Such a resource only matches requests that leave capacity unset.
+     */
+    public static final int UNKNOWN_CAPACITY = 0;
+
+    String id;
+    String name;
+    String type;
+    String building;
+    int capacity;
+    List<String> facilities = new ArrayList<>();
+    boolean available = true;
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public String getType() { return type; }
+    public String getBuilding() { return building; }
+    public int getCapacity() { return capacity; }
+    public List<String> getFacilities() { return facilities; }
+    public boolean isAvailable() { return available; }
+
+    public void setId(String id) { this.id = id; }
+    public void setName(String name) { this.name = name; }
+    public void setType(String type) { this.type = type; }
+    public void setBuilding(String building) { this.building = building; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public void setFacilities(List<String> facilities) {
+        this.facilities = facilities == null ? new ArrayList<>() : facilities;
+    }
+    public void setAvailable(boolean available) { this.available = available; }
+
+    @Override
+    public String toString() {
+        return "Resource{id=" + id + ", name=" + name + ", type=" + type +
+            ", building=" + building + ", capacity=" + capacity + "}";
+    }
+}
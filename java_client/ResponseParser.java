@@ -0,0 +1,365 @@
+package java_client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal JSON reader for the Campus Resource Finder responses.
+ *
+ * Only the shapes returned by the API are supported: an array of flat
+ * objects whose values are strings, numbers, booleans, null or (for
+ * resource facilities) arrays of strings. Nested values of fields that
+ * are not mapped are skipped. Repeated field values are decoded through
+ * a {@link StringPool} so they share one instance instead of allocating a
+ * new String per record.
+ */
+public class ResponseParser {
+
+    private final String json;
+    private final StringPool pool;
+    private int pos;
+
+    private ResponseParser(String json, StringPool pool) {
+        this.json = json;
+        this.pool = pool;
+    }
+
+    /**
+     * Parses the body of GET /bookings (or /bookings/user/:id).
+     * @param json The raw JSON array returned by the server.
+     * @param pool Dictionary used to share repeated field values, or null to decode without sharing.
+     * @return The decoded bookings, in response order.
+     * @throws IOException if the body is not a JSON array of objects.
+     */
+    public static List<Booking> parseBookings(String json, StringPool pool) throws IOException {
+        ResponseParser parser = new ResponseParser(json, pool);
+        List<Booking> bookings = new ArrayList<>();
+
+        parser.expect('[');
+        if (parser.consumeIf(']')) {
+            return bookings;
+        }
+        do {
+            bookings.add(parser.readBooking());
+        } while (parser.consumeIf(','));
+        parser.expect(']');
+        return bookings;
+    }
+
+    /**
+     * Parses the body of GET /resources.
+     * @param json The raw JSON array returned by the server.
+     * @param pool Dictionary used to share repeated field values, or null to decode without sharing.
+     * @return The decoded resources, in response order.
+     * @throws IOException if the body is not a JSON array of objects.
+     */
+    public static List<Resource> parseResources(String json, StringPool pool) throws IOException {
+        ResponseParser parser = new ResponseParser(json, pool);
+        List<Resource> resources = new ArrayList<>();
+
+        parser.expect('[');
+        if (parser.consumeIf(']')) {
+            return resources;
+        }
+        do {
+            resources.add(parser.readResource());
+        } while (parser.consumeIf(','));
+        parser.expect(']');
+        return resources;
+    }
+
+    // --- Record Readers ---
+
+    private Booking readBooking() throws IOException {
+        Booking booking = new Booking();
+        expect('{');
+        if (consumeIf('}')) {
+            return booking;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "id":           booking.id = readScalar(false); break;
+                case "userId":       booking.userId = readScalar(false); break;
+                case "userName":     booking.userName = readScalar(true); break;
+                case "resourceId":   booking.resourceId = readScalar(true); break;
+                case "resourceName": booking.resourceName = readScalar(true); break;
+                case "resourceType": booking.resourceType = readScalar(true); break;
+                case "date":         booking.date = readScalar(true); break;
+                case "startTime":    booking.startTime = readScalar(true); break;
+                case "endTime":      booking.endTime = readScalar(true); break;
+                case "status":       booking.status = readScalar(true); break;
+                case "bookedOn":     booking.bookedOn = readScalar(true); break;
+                default:             skipValue(); break;
+            }
+        } while (consumeIf(','));
+        expect('}');
+        return booking;
+    }
+
+    private Resource readResource() throws IOException {
+        Resource resource = new Resource();
+        expect('{');
+        if (consumeIf('}')) {
+            return resource;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "id":         resource.id = readScalar(true); break;
+                case "name":       resource.name = readScalar(true); break;
+                case "type":       resource.type = readScalar(true); break;
+                case "building":   resource.building = readScalar(true); break;
+                case "capacity":   resource.capacity = readCapacity(); break;
+                case "facilities": resource.facilities = readStringArray(); break;
+                case "available":  resource.available = !"false".equals(readScalar(false)); break;
+                default:           skipValue(); break;
+            }
+        } while (consumeIf(','));
+        expect('}');
+        return resource;
+    }
+
+    // --- Token Helpers ---
+
+    /**
+     * Reads a capacity, truncating fractional numbers. Resources are created
+     * from unchecked request bodies, so anything that is not a finite number
+     * in int range yields {@link Resource#UNKNOWN_CAPACITY} instead of failing
+     * the whole response.
+     */
+    private int readCapacity() throws IOException {
+        skipWhitespace();
+        if (pos < json.length() && (json.charAt(pos) == '{' || json.charAt(pos) == '[')) {
+            skipValue();
+            return Resource.UNKNOWN_CAPACITY;
+        }
+        String value = readScalar(false);
+        if (value == null) {
+            return Resource.UNKNOWN_CAPACITY;
+        }
+        double capacity;
+        try {
+            capacity = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Resource.UNKNOWN_CAPACITY;
+        }
+        if (Double.isNaN(capacity) || capacity < 0 || capacity > Integer.MAX_VALUE) {
+            return Resource.UNKNOWN_CAPACITY;
+        }
+        return (int) capacity;
+    }
+
+    /**
+     * Reads a list of facilities. As with capacity, a malformed value must not
+     * fail the whole response: a single scalar becomes a one-element list, and
+     * null entries, nested arrays and objects are skipped.
+     */
+    private List<String> readStringArray() throws IOException {
+        List<String> values = new ArrayList<>();
+        skipWhitespace();
+        if (pos >= json.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = json.charAt(pos);
+        if (c == '{') {
+            skipValue();
+            return values;
+        }
+        if (c != '[') {
+            String value = readScalar(true);
+            if (value != null) {
+                values.add(value);
+            }
+            return values;
+        }
+        pos++;
+        if (consumeIf(']')) {
+            return values;
+        }
+        do {
+            skipWhitespace();
+            if (pos < json.length() && (json.charAt(pos) == '{' || json.charAt(pos) == '[')) {
+                skipValue();
+                continue;
+            }
+            String value = readScalar(true);
+            if (value != null) {
+                values.add(value);
+            }
+        } while (consumeIf(','));
+        expect(']');
+        return values;
+    }
+
+    /**
+     * Reads a string, number, boolean or null value as text.
+     * @param pooled Whether the value should be shared through the pool.
+     */
+    private String readScalar(boolean pooled) throws IOException {
+        skipWhitespace();
+        if (pos >= json.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = json.charAt(pos);
+        if (c == '"') {
+            return pooled ? readPooledString() : readString();
+        }
+        if (c == '{' || c == '[') {
+            throw error("Expected a scalar value");
+        }
+
+        int start = pos;
+        while (pos < json.length() && ",}] \t\r\n".indexOf(json.charAt(pos)) < 0) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected a value");
+        }
+        if (json.startsWith("null", start) && pos - start == 4) {
+            return null;
+        }
+        return pooled ? share(start, pos) : json.substring(start, pos);
+    }
+
+    private String readPooledString() throws IOException {
+        int start = pos + 1;
+        for (int i = start; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                pos = i + 1;
+                return share(start, i);
+            }
+            if (c == '\\') {
+                // Escaped strings are rare in these payloads; decode first, then pool.
+                String value = readString();
+                return pool == null ? value : pool.intern(value);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private String share(int start, int end) {
+        return pool == null ? json.substring(start, end) : pool.intern(json, start, end);
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder sb = null;
+        int start = pos;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                String value = sb == null
+                    ? json.substring(start, pos)
+                    : sb.append(json, start, pos).toString();
+                pos++;
+                return value;
+            }
+            if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(json, start, pos);
+                pos = appendEscape(sb, pos + 1);
+                start = pos;
+            } else {
+                pos++;
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private int appendEscape(StringBuilder sb, int index) throws IOException {
+        if (index >= json.length()) {
+            throw error("Unterminated escape sequence");
+        }
+        char c = json.charAt(index);
+        switch (c) {
+            case 'b': sb.append('\b'); break;
+            case 'f': sb.append('\f'); break;
+            case 'n': sb.append('\n'); break;
+            case 'r': sb.append('\r'); break;
+            case 't': sb.append('\t'); break;
+            case 'u':
+                if (index + 5 > json.length()) {
+                    throw error("Invalid unicode escape");
+                }
+                try {
+                    sb.append((char) Integer.parseInt(json.substring(index + 1, index + 5), 16));
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+                return index + 5;
+            default: sb.append(c); break;
+        }
+        return index + 1;
+    }
+
+    private int findStringEnd(int start) throws IOException {
+        int i = start;
+        while (i < json.length()) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                return i;
+            }
+            i += (c == '\\') ? 2 : 1;
+        }
+        throw error("Unterminated string");
+    }
+
+    private void skipValue() throws IOException {
+        skipWhitespace();
+        if (pos >= json.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = json.charAt(pos);
+        if (c == '"') {
+            pos = findStringEnd(pos + 1) + 1;
+        } else if (c == '{' || c == '[') {
+            char close = (c == '{') ? '}' : ']';
+            pos++;
+            if (consumeIf(close)) {
+                return;
+            }
+            do {
+                if (close == '}') {
+                    readString();
+                    expect(':');
+                }
+                skipValue();
+            } while (consumeIf(','));
+            expect(close);
+        } else {
+            readScalar(false);
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        if (!consumeIf(expected)) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private boolean consumeIf(char expected) {
+        skipWhitespace();
+        if (pos < json.length() && json.charAt(pos) == expected) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException("Malformed JSON response: " + message + " at position " + pos);
+    }
+}
@@ -0,0 +1,108 @@
+package java_client;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Offline checks for {@link ResponseParser} and {@link StringPool}. Does not
+ * need the server; prints each case and exits with status 1 on any failure.
+ *
+ * Usage: java java_client.ResponseParserCheck
+ */
+public class ResponseParserCheck {
+
+    private static final String BOOKINGS =
+        "[{\"id\":1761061471692,\"userId\":1,\"userName\":\"DEBII\",\"resourceId\":1," +
+        "\"resourceName\":\"Study Room 102\",\"resourceType\":\"Study Room\",\"date\":\"2026-01-20\"," +
+        "\"startTime\":\"14:00\",\"endTime\":\"16:00\",\"status\":\"Confirmed\",\"bookedOn\":\"2025-10-21\"}," +
+        " {\"id\":\"1761061952303\", \"userId\":1, \"userName\":\"D\\\"E\\u0042II\\n\", \"resourceId\":1," +
+        " \"resourceName\":\"Study Room 102\", \"resourceType\":null, \"date\":\"2026-01-20\"," +
+        " \"notes\":{\"tags\":[\"a\",{\"b\":[1,2]}],\"text\":\"x\\\"]}\"}, \"status\":\"Confirmed\"}]";
+
+    private static int failures = 0;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== ResponseParser offline checks ===\n");
+
+        StringPool pool = new StringPool();
+        List<Booking> pooled = ResponseParser.parseBookings(BOOKINGS, pool);
+        List<Booking> plain = ResponseParser.parseBookings(BOOKINGS, null);
+        Booking first = pooled.get(0);
+        Booking second = pooled.get(1);
+
+        // 1. Both records are read, including the one with an unknown nested field
+        check("Two bookings are parsed", pooled.size(), 2);
+        check("Field after a skipped nested value is read", second.getStatus(), "Confirmed");
+
+        // 2. Numeric and string ids
+        check("Numeric id is read as text", first.getId(), "1761061471692");
+        check("String id is read without quotes", second.getId(), "1761061952303");
+
+        // 3. Escapes and null
+        check("Escaped string is decoded", second.getUserName(), "D\"EBII\n");
+        check("null value is read as null", second.getResourceType(), null);
+        check("Missing field stays null", second.getStartTime(), null);
+
+        // 4. Pooled and unpooled results agree
+        check("Pooled and unpooled results are equal", describe(pooled), describe(plain));
+
+        // 5. Repeated values share one instance through the pool
+        check("Repeated status is the same instance", first.getStatus() == second.getStatus(), true);
+        check("Repeated resourceName is the same instance",
+            first.getResourceName() == second.getResourceName(), true);
+        check("Unpooled values are separate instances",
+            plain.get(0).getStatus() == plain.get(1).getStatus(), false);
+
+        // 6. Two values in the same pool set both stay pooled
+        StringPool tiny = new StringPool(2);
+        String a = tiny.intern("Study Room");
+        String b = tiny.intern("Confirmed");
+        check("Colliding values both stay pooled",
+            tiny.intern(new String("Study Room")) == a && tiny.intern(new String("Confirmed")) == b, true);
+
+        // 7. Malformed bodies are rejected
+        checkRejected("unterminated string", "[{\"status\":\"Confirmed}]");
+        checkRejected("missing colon", "[{\"status\" \"Confirmed\"}]");
+        checkRejected("object instead of array", "{\"status\":\"Confirmed\"}");
+        checkRejected("truncated body", "[{\"status\":\"Confirmed\"},");
+        checkRejected("bad unicode escape", "[{\"status\":\"\\uZZZZ\"}]");
+
+        System.out.println("\n" + (failures == 0 ? "All checks passed" : failures + " check(s) failed"));
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static List<String> describe(List<Booking> bookings) {
+        String[] rows = new String[bookings.size()];
+        for (int i = 0; i < rows.length; i++) {
+            Booking b = bookings.get(i);
+            rows[i] = String.join("|", String.valueOf(b.getId()), String.valueOf(b.getUserId()),
+                String.valueOf(b.getUserName()), String.valueOf(b.getResourceId()),
+                String.valueOf(b.getResourceName()), String.valueOf(b.getResourceType()),
+                String.valueOf(b.getDate()), String.valueOf(b.getStartTime()),
+                String.valueOf(b.getEndTime()), String.valueOf(b.getStatus()),
+                String.valueOf(b.getBookedOn()));
+        }
+        return Arrays.asList(rows);
+    }
+
+    private static void check(String name, Object actual, Object expected) {
+        boolean passed = expected == null ? actual == null : expected.equals(actual);
+        if (!passed) {
+            failures++;
+        }
+        System.out.println((passed ? "PASS " : "FAIL ") + name +
+            (passed ? "" : " (expected " + expected + ", got " + actual + ")"));
+    }
+
+    private static void checkRejected(String name, String json) {
+        try {
+            ResponseParser.parseBookings(json, new StringPool());
+            check("Rejects " + name, "accepted", "IOException");
+        } catch (IOException e) {
+            check("Rejects " + name, "IOException", "IOException");
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package java_client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds free alternatives to a booking request from already fetched
+ * resources and bookings, so a failed booking can be retried once instead
+ * of by trial and error against the server.
+ *
+ * Each resource's day is a bitmap of 30-minute slots held in a single long
+ * (bit i set = slot starting at i * 30 minutes is taken). Checking a
+ * candidate window is then one AND against a precomputed window mask.
+ */
+public class SlotRecommender {
+
+    static final int SLOT_MINUTES = 30;
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    // How far (in slots) a suggestion may move away from the requested start
+    static final int MAX_SHIFT_SLOTS = 8;
+
+    // Penalties used to rank suggestions; lower is better
+    private static final int SHIFT_PENALTY = 1;
+    private static final int OTHER_BUILDING_PENALTY = 3;
+    private static final int MISSING_FACILITY_PENALTY = 2;
+
+    private SlotRecommender() {
+    }
+
+    /**
+     * Returns up to {@code k} free resource/time windows similar to the request.
+     *
+     * A resource is a candidate when it is available, has the requested type
+     * (if one is given), at least the requested capacity and, if facilities
+     * are requested, at least one of them. Time windows keep the requested
+     * duration and start up to {@link #MAX_SHIFT_SLOTS} slots earlier or later.
+     *
+     * @param resources All resources, e.g. from GET /resources.
+     * @param bookings Existing bookings, e.g. from GET /bookings.
+     * @param request Template describing the wanted resource (type, building, capacity, facilities).
+     * @param date Booking date (yyyy-MM-dd), compared as-is with booking dates.
+     * @param startTime Requested start time (HH:mm).
+     * @param endTime Requested end time (HH:mm).
+     * @param k Maximum number of suggestions to return.
+     * @return Suggestions ordered by increasing penalty.
+     */
+    public static List<Suggestion> recommend(List<Resource> resources, List<Booking> bookings,
+            Resource request, String date, String startTime, String endTime, int k) {
+        validate(startTime, endTime, k);
+        int start = toMinutes(startTime);
+        int end = toMinutes(endTime);
+
+        Map<String, Long> occupancy = buildOccupancy(bookings, date);
+        int firstSlot = start / SLOT_MINUTES;
+        int slotCount = slotsCovering(start, end);
+        long windowMask = mask(slotCount);
+        // Keep the requested offset within the first slot when shifting
+        int offset = start - firstSlot * SLOT_MINUTES;
+        int duration = end - start;
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (Resource resource : resources) {
+            if (!isSimilar(resource, request)) {
+                continue;
+            }
+            int basePenalty = resourcePenalty(resource, request);
+            long taken = occupancy.getOrDefault(resource.getId(), 0L);
+
+            for (int shift = -MAX_SHIFT_SLOTS; shift <= MAX_SHIFT_SLOTS; shift++) {
+                int slot = firstSlot + shift;
+                if (slot < 0 || slot + slotCount > SLOTS_PER_DAY) {
+                    continue;
+                }
+                if ((taken & (windowMask << slot)) != 0) {
+                    continue;
+                }
+                int from = slot * SLOT_MINUTES + offset;
+                suggestions.add(new Suggestion(resource, date, formatTime(from),
+                    formatTime(from + duration), basePenalty + Math.abs(shift) * SHIFT_PENALTY));
+            }
+        }
+
+        suggestions.sort(Comparator.comparingInt(Suggestion::getPenalty)
+            .thenComparingInt(s -> toMinutes(s.getStartTime())));
+        return suggestions.size() > k ? new ArrayList<>(suggestions.subList(0, k)) : suggestions;
+    }
+
+    /**
+     * Checks the arguments of {@link #recommend} without needing any data,
+     * so callers can reject a bad request before fetching resources and bookings.
+     * @throws IllegalArgumentException if k is not positive or the times are invalid.
+     */
+    static void validate(String startTime, String endTime, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        int start = toMinutes(startTime);
+        int end = toMinutes(endTime);
+        if (end <= start || end > SLOTS_PER_DAY * SLOT_MINUTES) {
+            throw new IllegalArgumentException("Invalid time window: " + startTime + "-" + endTime);
+        }
+    }
+
+    // --- Matching ---
+
+    private static boolean isSimilar(Resource resource, Resource request) {
+        if (!resource.isAvailable() || resource.getCapacity() < request.getCapacity()) {
+            return false;
+        }
+        if (request.getType() != null && !request.getType().equals(resource.getType())) {
+            return false;
+        }
+        List<String> wanted = request.getFacilities();
+        if (wanted == null || wanted.isEmpty()) {
+            return true;
+        }
+        if (resource.getFacilities() == null) {
+            return false;
+        }
+        for (String facility : wanted) {
+            if (resource.getFacilities().contains(facility)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int resourcePenalty(Resource resource, Resource request) {
+        int penalty = 0;
+        if (request.getBuilding() != null && !request.getBuilding().equals(resource.getBuilding())) {
+            penalty += OTHER_BUILDING_PENALTY;
+        }
+        if (request.getFacilities() != null) {
+            List<String> offered = resource.getFacilities();
+            for (String facility : request.getFacilities()) {
+                if (offered == null || !offered.contains(facility)) {
+                    penalty += MISSING_FACILITY_PENALTY;
+                }
+            }
+        }
+        return penalty;
+    }
+
+    // --- Occupancy Bitmaps ---
+
+    private static Map<String, Long> buildOccupancy(List<Booking> bookings, String date) {
+        Map<String, Long> occupancy = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (!date.equals(booking.getDate()) || "Cancelled".equalsIgnoreCase(booking.getStatus())) {
+                continue;
+            }
+            int start;
+            int end;
+            try {
+                start = toMinutes(booking.getStartTime());
+                end = Math.min(toMinutes(booking.getEndTime()), SLOTS_PER_DAY * SLOT_MINUTES);
+            } catch (IllegalArgumentException e) {
+                // A booking with unreadable times cannot be placed; skip it
+                continue;
+            }
+            if (end <= start) {
+                continue;
+            }
+            long bits = mask(slotsCovering(start, end)) << (start / SLOT_MINUTES);
+            occupancy.merge(booking.getResourceId(), bits, (a, b) -> a | b);
+        }
+        return occupancy;
+    }
+
+    /**
+     * Number of slots touched by [start, end), counting partial slots as taken.
+     */
+    private static int slotsCovering(int start, int end) {
+        int first = start / SLOT_MINUTES;
+        int last = (end + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        return last - first;
+    }
+
+    private static long mask(int slotCount) {
+        return slotCount >= Long.SIZE ? -1L : (1L << slotCount) - 1;
+    }
+
+    // --- Time Helpers ---
+
+    static int toMinutes(String time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time is missing");
+        }
+        int colon = time.indexOf(':');
+        try {
+            int hours = Integer.parseInt(colon < 0 ? time : time.substring(0, colon));
+            int minutes = colon < 0 ? 0 : Integer.parseInt(time.substring(colon + 1));
+            if (hours < 0 || hours > 24 || minutes < 0 || minutes >= 60) {
+                throw new IllegalArgumentException("Invalid time: " + time);
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid time: " + time);
+        }
+    }
+
+    static String formatTime(int minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+}
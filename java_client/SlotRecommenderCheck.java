@@ -0,0 +1,163 @@
+package java_client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Offline checks for {@link SlotRecommender} and resource parsing. Does not
+ * need the server; prints each case and exits with status 1 on any failure.
+ *
+ * Usage: java java_client.SlotRecommenderCheck
+ */
+public class SlotRecommenderCheck {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== SlotRecommender offline checks ===\n");
+
+        List<Resource> resources = ResponseParser.parseResources(
+            "[{\"id\":1,\"name\":\"Study Room 102\",\"type\":\"Study Room\"," +
+            "\"building\":\"Main Library\",\"capacity\":30,\"facilities\":[\"Wi-Fi\"],\"available\":true}]",
+            new StringPool());
+        Resource request = new Resource();
+        request.setType("Study Room");
+        request.setCapacity(10);
+
+        // 1. Off-grid request keeps its quarter-hour offset when shifted
+        List<Suggestion> offGrid = SlotRecommender.recommend(resources, bookings(),
+            request, "2026-01-20", "09:15", "10:00", 3);
+        check("Off-grid request is suggested as asked",
+            windows(offGrid), Arrays.asList("09:15-10:00", "08:45-09:30", "09:45-10:30"));
+
+        // 2. Window at the end of the day never runs past 24:00
+        List<Suggestion> endOfDay = SlotRecommender.recommend(resources, bookings(),
+            request, "2026-01-20", "23:00", "24:00", 3);
+        check("End-of-day window stays within the day",
+            windows(endOfDay), Arrays.asList("23:00-24:00", "22:30-23:30", "22:00-23:00"));
+
+        // 3. Windows overlapping a booking are excluded (partial slots count as
+        //    taken, so 09:15-10:00 needs 09:00-10:00 free); touching ones are not
+        List<Suggestion> overlap = SlotRecommender.recommend(resources,
+            bookings("09:30", "10:30"), request, "2026-01-20", "09:15", "10:00", 3);
+        check("Window overlapping a booking is excluded",
+            windows(overlap), Arrays.asList("08:45-09:30", "08:15-09:00", "07:45-08:30"));
+        List<Suggestion> touching = SlotRecommender.recommend(resources,
+            bookings("10:00", "11:00"), request, "2026-01-20", "09:00", "10:00", 1);
+        check("Window ending when a booking starts is kept",
+            windows(touching), Arrays.asList("09:00-10:00"));
+
+        // 4. Bookings on other dates or cancelled do not block the slot
+        List<Booking> other = bookings("09:00", "10:00");
+        other.get(0).date = "2026-01-21";
+        List<Booking> cancelled = bookings("09:00", "10:00");
+        cancelled.get(0).status = "Cancelled";
+        check("Booking on another date is ignored", windows(SlotRecommender.recommend(resources,
+            other, request, "2026-01-20", "09:00", "10:00", 1)), Arrays.asList("09:00-10:00"));
+        check("Cancelled booking is ignored", windows(SlotRecommender.recommend(resources,
+            cancelled, request, "2026-01-20", "09:00", "10:00", 1)), Arrays.asList("09:00-10:00"));
+
+        // 5. Fractional and unreadable capacities do not fail the whole response
+        List<Resource> odd = ResponseParser.parseResources(
+            "[{\"id\":1,\"capacity\":12.5},{\"id\":2,\"capacity\":\"lots\"},{\"id\":3,\"capacity\":5.0}," +
+            "{\"id\":4,\"capacity\":\"Infinity\"},{\"id\":5,\"capacity\":1e12},{\"id\":6,\"capacity\":null}," +
+            "{\"id\":7,\"capacity\":-3},{\"id\":8}]",
+            null);
+        List<Integer> capacities = new ArrayList<>();
+        for (Resource resource : odd) {
+            capacities.add(resource.getCapacity());
+        }
+        int unknown = Resource.UNKNOWN_CAPACITY;
+        check("Capacities are truncated or marked unknown", capacities,
+            Arrays.asList(12, unknown, 5, unknown, unknown, unknown, unknown, unknown));
+        Resource needsTwenty = new Resource();
+        needsTwenty.setCapacity(20);
+        check("Unknown capacity never satisfies a capacity request",
+            SlotRecommender.recommend(odd.subList(3, 5), bookings(), needsTwenty,
+                "2026-01-20", "09:00", "10:00", 1).size(), 0);
+        check("Unknown capacity matches a request without one",
+            SlotRecommender.recommend(odd.subList(3, 4), bookings(), new Resource(),
+                "2026-01-20", "09:00", "10:00", 1).size(), 1);
+
+        // 6. Malformed facilities do not fail the whole response
+        List<Resource> facilities = ResponseParser.parseResources(
+            "[{\"id\":1,\"facilities\":\"Wi-Fi\"},{\"id\":2,\"facilities\":[\"AC\",7,null,[\"x\"],{\"y\":1},\"Wi-Fi\"]}," +
+            "{\"id\":3,\"facilities\":{\"Wi-Fi\":true}},{\"id\":4,\"facilities\":null}]",
+            new StringPool());
+        List<List<String>> parsed = new ArrayList<>();
+        for (Resource resource : facilities) {
+            parsed.add(resource.getFacilities());
+        }
+        check("Facilities are read leniently", parsed, Arrays.asList(
+            Arrays.asList("Wi-Fi"), Arrays.asList("AC", "7", "Wi-Fi"),
+            Arrays.<String>asList(), Arrays.<String>asList()));
+
+        // 7. Caller-built resources without facilities are handled
+        Resource bare = new Resource();
+        bare.setId("9");
+        bare.setType("Study Room");
+        bare.setCapacity(10);
+        bare.setFacilities(null);
+        Resource wantsWifi = new Resource();
+        wantsWifi.setFacilities(Arrays.asList("Wi-Fi"));
+        check("Resource without facilities is skipped when facilities are requested",
+            SlotRecommender.recommend(Arrays.asList(bare), bookings(), wantsWifi,
+                "2026-01-20", "09:00", "10:00", 1).size(), 0);
+
+        // 8. Invalid arguments are rejected
+        checkRejected("k of zero", () -> SlotRecommender.validate("09:00", "10:00", 0));
+        checkRejected("end before start", () -> SlotRecommender.validate("10:00", "09:00", 1));
+        checkRejected("end after 24:00", () -> SlotRecommender.validate("23:00", "24:30", 1));
+        checkRejected("unreadable time", () -> SlotRecommender.validate("9am", "10:00", 1));
+
+        System.out.println("\n" + (failures == 0 ? "All checks passed" : failures + " check(s) failed"));
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Bookings on 2026-01-20 for resource 1, one per start/end pair.
+     */
+    private static List<Booking> bookings(String... times) {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i + 1 < times.length; i += 2) {
+            Booking booking = new Booking();
+            booking.resourceId = "1";
+            booking.date = "2026-01-20";
+            booking.startTime = times[i];
+            booking.endTime = times[i + 1];
+            booking.status = "Confirmed";
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    private static List<String> windows(List<Suggestion> suggestions) {
+        List<String> windows = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            windows.add(suggestion.getStartTime() + "-" + suggestion.getEndTime());
+        }
+        return windows;
+    }
+
+    private static void check(String name, Object actual, Object expected) {
+        boolean passed = expected.equals(actual);
+        if (!passed) {
+            failures++;
+        }
+        System.out.println((passed ? "PASS " : "FAIL ") + name +
+            (passed ? "" : " (expected " + expected + ", got " + actual + ")"));
+    }
+
+    private static void checkRejected(String name, Runnable call) {
+        try {
+            call.run();
+            check("Rejects " + name, "accepted", "IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            check("Rejects " + name, "IllegalArgumentException", "IllegalArgumentException");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package java_client;
+
+/**
+ * Bounded dictionary of shared String instances for the response parser.
+ *
+ * Booking fields such as resourceName, resourceType, status and the
+ * date/time strings repeat across almost every record of a large bookings
+ * pull. Lookups are done directly against a region of the response text, so
+ * a value that is already pooled is returned without allocating a new String.
+ *
+ * The table is a 2-way set-associative cache: each value maps to a set of
+ * two slots, so two hot values that hash to the same set can both stay
+ * pooled. Within a set the most recently used value is kept in the first
+ * slot, and a new value evicts the other one. The pool's footprint stays
+ * fixed, and values that stop appearing are eventually displaced by the ones
+ * that are hot now, so sharing keeps working in a long-running process.
+ */
+public class StringPool {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final String[] table;
+    // Mask over set indexes; set i occupies slots 2i and 2i + 1
+    private final int setMask;
+    private int size;
+    private long hits;
+    private long misses;
+
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with room for {@code capacity} values, rounded up to a
+     * power of two of at least 2.
+     * @param capacity Number of slots in the pool.
+     */
+    public StringPool(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int tableSize = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new String[tableSize];
+        this.setMask = tableSize / 2 - 1;
+    }
+
+    /**
+     * Returns the shared instance for {@code source[start, end)}.
+     * @param source The text containing the value (e.g. a raw JSON response).
+     * @param start Index of the first character, inclusive.
+     * @param end Index of the last character, exclusive.
+     * @return A pooled String equal to the region; on a miss the new value
+     *         replaces the least recently used value of its set.
+     */
+    public synchronized String intern(String source, int start, int end) {
+        int length = end - start;
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+
+        int first = (mix(hash) & setMask) << 1;
+        String recent = table[first];
+        if (matches(recent, hash, source, start, length)) {
+            hits++;
+            return recent;
+        }
+        String older = table[first + 1];
+        if (matches(older, hash, source, start, length)) {
+            // Promote to the first slot so the other value is evicted next
+            table[first] = older;
+            table[first + 1] = recent;
+            hits++;
+            return older;
+        }
+
+        misses++;
+        String value = source.substring(start, end);
+        // The second slot is only filled after the first, so a free one is always here
+        if (older == null) {
+            size++;
+        }
+        table[first + 1] = recent;
+        table[first] = value;
+        return value;
+    }
+
+    /**
+     * Returns the shared instance equal to {@code value}.
+     * @param value An already decoded string (e.g. one containing escapes).
+     * @return A pooled String equal to value, or value itself on a miss.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return intern(value, 0, value.length());
+    }
+
+    /**
+     * Returns the number of occupied slots.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static boolean matches(String candidate, int hash, String source, int start, int length) {
+        return candidate != null && candidate.length() == length && candidate.hashCode() == hash
+            && candidate.regionMatches(0, source, start, length);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,33 @@
+package java_client;
+
+/**
+ * A free resource/time window proposed as an alternative to a booking
+ * request. Lower penalties are closer to what was asked for.
+ */
+public class Suggestion {
+    private final Resource resource;
+    private final String date;
+    private final String startTime;
+    private final String endTime;
+    private final int penalty;
+
+    Suggestion(Resource resource, String date, String startTime, String endTime, int penalty) {
+        this.resource = resource;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.penalty = penalty;
+    }
+
+    public Resource getResource() { return resource; }
+    public String getDate() { return date; }
+    public String getStartTime() { return startTime; }
+    public String getEndTime() { return endTime; }
+    public int getPenalty() { return penalty; }
+
+    @Override
+    public String toString() {
+        return "Suggestion{resource=" + resource.getName() + ", date=" + date +
+            ", " + startTime + "-" + endTime + ", penalty=" + penalty + "}";
+    }
+}